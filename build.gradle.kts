@@ -2,6 +2,7 @@ plugins {
     java
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
     id("jacoco")
 }
 
@@ -23,6 +24,7 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -50,3 +52,46 @@ tasks.test {
     ignoreFailures = true
     useJUnitPlatform()
 }
+
+// benchmark tasks
+jmh {
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+}
+
+// class data sharing (CDS) tasks
+// CDS 는 디렉터리가 아닌 jar 로 된 classpath 만 보관할 수 있으므로 애플리케이션 클래스를 별도 jar 로 묶어 사용
+val cdsArchiveFile = layout.buildDirectory.file("cds/application.jsa")
+val cdsJar by tasks.registering(Jar::class) {
+    archiveClassifier = "cds"
+    from(sourceSets.main.get().output)
+}
+val cdsClasspath = files(cdsJar, configurations.runtimeClasspath)
+
+val cdsArchive by tasks.registering(JavaExec::class) {
+    group = "application"
+    description = "애플리케이션 컨텍스트 초기화까지 로드된 클래스를 CDS 아카이브로 생성합니다."
+    classpath = cdsClasspath
+    mainClass = "io.hhplus.tdd.TddApplication"
+    jvmArgs(
+        "-XX:ArchiveClassesAtExit=${cdsArchiveFile.get().asFile}",
+        "-Dspring.context.exit=onRefresh"
+    )
+    outputs.file(cdsArchiveFile)
+    doFirst { cdsArchiveFile.get().asFile.parentFile.mkdirs() }
+}
+
+tasks.register<JavaExec>("bootRunFast") {
+    group = "application"
+    description = "CDS 아카이브와 예열(warm-up)을 사용해 애플리케이션을 실행합니다."
+    dependsOn(cdsArchive)
+    classpath = cdsClasspath
+    mainClass = "io.hhplus.tdd.TddApplication"
+    jvmArgs(
+        "-XX:SharedArchiveFile=${cdsArchiveFile.get().asFile}",
+        "-Xlog:cds=warning",
+        "-Dpoint.warmup.enabled=true",
+        "-Dpoint.startup-latency.enabled=true"
+    )
+}
@@ -0,0 +1,61 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointHistory 리스트 응답의 JSON / 바이너리 직렬화 비용 비교
+ * 실행 : ./gradlew jmh
+ * 응답 크기는 Setup 단계에서 출력 (바이너리는 4 + 33 * n 바이트 고정)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointHistorySerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<PointHistory> histories;
+    private ByteArrayOutputStream buffer;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        histories = new ArrayList<>(size);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < size; i++) {
+            TransactionType type = i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+            histories.add(new PointHistory(i + 1, 1L, 100L * (i + 1), type, now + i));
+        }
+        buffer = new ByteArrayOutputStream(PointBinaryCodec.historiesLength(size) * 4);
+
+        int jsonBytes = objectMapper.writeValueAsBytes(histories).length;
+        int binaryBytes = PointBinaryCodec.historiesLength(size);
+        System.out.printf("%n[size=%d] json=%d bytes, binary=%d bytes%n", size, jsonBytes, binaryBytes);
+    }
+
+    @Benchmark
+    public void json(Blackhole blackhole) throws IOException {
+        buffer.reset();
+        objectMapper.writeValue(buffer, histories);
+        blackhole.consume(buffer.size());
+    }
+
+    @Benchmark
+    public void binary(Blackhole blackhole) throws IOException {
+        buffer.reset();
+        DataOutputStream out = new DataOutputStream(buffer);
+        PointBinaryCodec.writeHistories(histories, out);
+        out.flush();
+        blackhole.consume(buffer.size());
+    }
+}
@@ -1,14 +1,30 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.point.PointException;
+import io.hhplus.tdd.point.PointUnavailableException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+/**
+ * 에러 응답은 요청의 Accept 헤더(바이너리 형식 등)와 관계없이 항상 JSON 으로 응답
+ */
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+    @ExceptionHandler(value = PointException.class)
+    public ResponseEntity<ErrorResponse> handlePointException(PointException e) {
+        return ResponseEntity.status(400).contentType(MediaType.APPLICATION_JSON).body(new ErrorResponse("400", e.getMessage()));
+    }
+
+    @ExceptionHandler(value = PointUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePointUnavailableException(PointUnavailableException e) {
+        return ResponseEntity.status(503).contentType(MediaType.APPLICATION_JSON).body(new ErrorResponse("503", e.getMessage()));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
-        return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
+        return ResponseEntity.status(500).contentType(MediaType.APPLICATION_JSON).body(new ErrorResponse("500", "에러가 발생했습니다."));
     }
 }
@@ -0,0 +1,100 @@
+package io.hhplus.tdd;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 준비 완료(ApplicationReadyEvent) 후 첫 1분 동안의 요청 처리 시간 기록
+ * 예열/CDS 적용 전후 비교용으로, 1분이 지나면 건수와 p50/p99/최대값을 한 번 로그로 남김
+ * 예열 요청은 준비 완료 전에 처리되므로 기록되지 않음
+ * 측정할 때만 사용하므로 point.startup-latency.enabled=true 인 경우에만 등록
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.startup-latency", name = "enabled", havingValue = "true")
+class StartupLatencyRecorder extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(StartupLatencyRecorder.class);
+
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int MAXIMUM_SAMPLES = 100_000;
+
+    // 요청 스레드가 기록하고 report 스레드가 읽으므로 AtomicLongArray 사용 (아직 기록되지 않은 칸은 0)
+    private final AtomicLongArray samples = new AtomicLongArray(MAXIMUM_SAMPLES);
+    private final AtomicInteger sampleCount = new AtomicInteger();
+    private final AtomicBoolean reported = new AtomicBoolean();
+    // 준비 완료 시각 (준비 전에는 0)
+    private volatile long readyNanos;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWindow() {
+        readyNanos = System.nanoTime();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startNanos = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long ready = readyNanos;
+            if (ready != 0 && startNanos - ready < WINDOW_NANOS) {
+                int index = sampleCount.getAndIncrement();
+                if (index < MAXIMUM_SAMPLES) {
+                    samples.set(index, System.nanoTime() - startNanos);
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelay = 5_000L)
+    public void report() {
+        long ready = readyNanos;
+        if (ready == 0 || System.nanoTime() - ready < WINDOW_NANOS || !reported.compareAndSet(false, true)) {
+            return;
+        }
+        int reserved = Math.min(sampleCount.get(), MAXIMUM_SAMPLES);
+        // 순번만 받고 아직 기록하지 못한 요청(0)은 제외
+        long[] sorted = new long[reserved];
+        int count = 0;
+        for (int i = 0; i < reserved; i++) {
+            long sample = samples.get(i);
+            if (sample > 0) {
+                sorted[count++] = sample;
+            }
+        }
+        if (count == 0) {
+            log.info("준비 완료 후 1분 요청 처리 시간. count=0");
+            return;
+        }
+        sorted = Arrays.copyOf(sorted, count);
+        Arrays.sort(sorted);
+        log.info("준비 완료 후 1분 요청 처리 시간. count={}, p50={}ms, p99={}ms, max={}ms",
+                count, toMillis(percentile(sorted, 50)), toMillis(percentile(sorted, 99)), toMillis(sorted[count - 1]));
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        int index = (int) Math.ceil(sorted.length * percent / 100.0) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.PointBinaryMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * 바이너리 컨버터는 목록 맨 뒤에 등록하여 Accept 헤더로 명시한 경우에만 선택되도록 함 (기본 응답은 JSON)
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new PointBinaryMessageConverter());
+    }
+}
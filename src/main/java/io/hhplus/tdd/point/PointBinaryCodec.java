@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포인트 응답을 위한 고정 길이 바이너리 인코딩
+ * - UserPoint : id(8) + point(8) + updateMillis(8) = 24 바이트
+ * - PointHistory 리스트 : 건수(4) + 건당 id(8) + userId(8) + amount(8) + type(1) + updateMillis(8) = 33 바이트
+ * 모든 값은 big-endian 으로 기록
+ */
+public final class PointBinaryCodec {
+    public static final int USER_POINT_BYTES = 24;
+    public static final int POINT_HISTORY_BYTES = 33;
+    private static final int COUNT_BYTES = 4;
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private PointBinaryCodec() {
+    }
+
+    /**
+     * 내역 리스트를 인코딩했을 때의 바이트 수
+     * @param size 내역 건수
+     * @return 인코딩된 바이트 수
+     */
+    public static int historiesLength(int size) {
+        return COUNT_BYTES + size * POINT_HISTORY_BYTES;
+    }
+
+    public static void writeUserPoint(UserPoint userPoint, DataOutput out) throws IOException {
+        out.writeLong(userPoint.id());
+        out.writeLong(userPoint.point());
+        out.writeLong(userPoint.updateMillis());
+    }
+
+    public static void writeHistories(List<PointHistory> histories, DataOutput out) throws IOException {
+        out.writeInt(histories.size());
+        for (PointHistory history : histories) {
+            writeHistory(history, out);
+        }
+    }
+
+    public static void writeHistory(PointHistory history, DataOutput out) throws IOException {
+        out.writeLong(history.id());
+        out.writeLong(history.userId());
+        out.writeLong(history.amount());
+        out.writeByte(history.type().ordinal());
+        out.writeLong(history.updateMillis());
+    }
+
+    public static UserPoint readUserPoint(DataInput in) throws IOException {
+        return new UserPoint(in.readLong(), in.readLong(), in.readLong());
+    }
+
+    public static List<PointHistory> readHistories(DataInput in) throws IOException {
+        int size = in.readInt();
+        List<PointHistory> histories = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            histories.add(readHistory(in));
+        }
+        return histories;
+    }
+
+    public static PointHistory readHistory(DataInput in) throws IOException {
+        return new PointHistory(in.readLong(), in.readLong(), in.readLong(), TYPES[in.readByte()], in.readLong());
+    }
+}
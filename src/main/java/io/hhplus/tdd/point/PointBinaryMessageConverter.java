@@ -0,0 +1,88 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Accept: application/x-hhplus-point 요청에 대해 UserPoint, PointHistory 리스트를
+ * {@link PointBinaryCodec} 형식으로 응답 스트림에 바로 기록하는 컨버터 (쓰기 전용)
+ */
+public class PointBinaryMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+    public static final String MEDIA_TYPE_VALUE = "application/x-hhplus-point";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    public PointBinaryMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    /**
+     * 타입 정보 없이 클래스만으로 판단하는 경로에서는 UserPoint 만 허용
+     * PointHistory 리스트는 요소 타입을 확인할 수 있는 canWrite(Type, Class, MediaType) 에서만 허용
+     */
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return UserPoint.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (UserPoint.class == clazz) {
+            return true;
+        }
+        return type != null && List.class.isAssignableFrom(clazz)
+                && ResolvableType.forType(type).asCollection().resolveGeneric(0) == PointHistory.class;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object o, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputMessage.getBody());
+        if (o instanceof UserPoint userPoint) {
+            PointBinaryCodec.writeUserPoint(userPoint, out);
+        } else {
+            PointBinaryCodec.writeHistories((List<PointHistory>) o, out);
+        }
+        out.flush();
+    }
+
+    @Override
+    protected Long getContentLength(Object o, @Nullable MediaType contentType) {
+        if (o instanceof UserPoint) {
+            return (long) PointBinaryCodec.USER_POINT_BYTES;
+        }
+        return (long) PointBinaryCodec.historiesLength(((List<?>) o).size());
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("읽기를 지원하지 않는 형식입니다.", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("읽기를 지원하지 않는 형식입니다.", inputMessage);
+    }
+}
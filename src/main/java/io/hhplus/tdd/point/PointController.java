@@ -3,9 +3,15 @@ package io.hhplus.tdd.point;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.security.SecureRandom;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/point")
@@ -13,26 +19,57 @@ import java.util.List;
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
+
+    // 프로세스 기동마다 새로 정하는 ETag 구분값
+    // 변경 버전은 기동할 때마다 0 부터 다시 시작하고 인스턴스마다 다르므로, 이전 프로세스/다른 인스턴스의 ETag 와 겹치지 않도록 함
+    private static final String EPOCH = Long.toHexString(new SecureRandom().nextLong());
     private final PointService pointService;
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
      */
     @GetMapping("{id}")
-    public UserPoint point(
-            @PathVariable long id
+    public ResponseEntity<UserPoint> point(
+            @PathVariable long id,
+            WebRequest request
+    ) {
+        // ID 검증(버전 조회) 후, 변경이 없으면 테이블 조회 없이 304 응답
+        String etag = etag("point", id);
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(pointService.getPoint(id));
+    }
+
+    /**
+     * 여러 유저의 포인트를 한 번에 조회 (요청 본문은 유저 ID 배열)
+     */
+    @PostMapping("bulk")
+    public Map<Long, UserPoint> points(
+            @RequestBody List<Long> ids
     ) {
-        return pointService.getPoint(id);
+        return pointService.getPoints(ids);
     }
 
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
      */
     @GetMapping("{id}/histories")
-    public List<PointHistory> history(
-            @PathVariable long id
+    public ResponseEntity<List<PointHistory>> history(
+            @PathVariable long id,
+            WebRequest request
     ) {
-        return pointService.getPointHistory(id);
+        String etag = etag("histories", id);
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(pointService.getPointHistory(id));
     }
 
     /**
@@ -56,4 +93,23 @@ public class PointController {
     ) {
         return pointService.use(id, amount);
     }
+
+    /**
+     * 사용자별 변경 버전으로 만든 ETag (잘못된 사용자 ID 면 예외)
+     * JSON/바이너리 응답이 같은 값을 공유하므로 weak ETag 를 사용하고, 캐시가 형식별로 구분하도록 Vary: Accept 를 함께 응답
+     */
+    private String etag(String resource, long id) {
+        return etag(resource, id, pointService.getVersion(id));
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .build();
+    }
+
+    static String etag(String resource, long id, long version) {
+        return "W/\"" + EPOCH + "-" + resource + "-" + id + "-" + version + "\"";
+    }
 }
@@ -0,0 +1,256 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 포인트 변경 내역을 SSE 구독자에게 전달하는 클래스
+ * publish 는 PointService 의 사용자 lock 안에서 호출되므로 I/O 없이 구독자 버퍼에 넣기만 하고,
+ * 실제 전송은 별도 스레드에서 처리
+ * - 포인트 : 마지막 값만 유지 (느린 구독자는 중간 값을 건너뜀)
+ * - 내역 : 구독자별 고정 크기 버퍼, 가득 차면 가장 오래된 내역부터 버림
+ * - 전송 : SseEmitter.send 는 블로킹 쓰기이므로, 전송 제한 시간을 넘긴 구독자는 구독을 끊고 전송 스레드를 interrupt
+ *   멈춘 구독자가 일부 전송 스레드를 붙잡고 있어도 다른 구독자에게 전송할 수 있도록 전송 스레드를 넉넉히 미리 만들어 둠
+ */
+@Component
+public class PointEventBroadcaster {
+    private static final Logger log = LoggerFactory.getLogger(PointEventBroadcaster.class);
+
+    private static final long EMITTER_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    private static final long SEND_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+    private static final int HISTORY_BUFFER_SIZE = 64;
+    private static final int SENDER_THREADS = 64;
+
+    private static final String ERROR_INVALID_USER_ID = "잘못된 사용자 ID입니다.";
+
+    // 사용자별 구독자 목록
+    private final ConcurrentHashMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService sender;
+    private final long sendTimeoutMillis;
+
+    public PointEventBroadcaster() {
+        this(senderExecutor(), SEND_TIMEOUT_MILLIS);
+    }
+
+    PointEventBroadcaster(ExecutorService sender, long sendTimeoutMillis) {
+        this.sender = sender;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+    }
+
+    /**
+     * 특정 사용자의 포인트 변경 구독
+     * @param userId 구독할 사용자 ID (1 이상)
+     * @return 변경 내역이 전송될 SseEmitter
+     */
+    public SseEmitter subscribe(long userId) {
+        return subscribe(userId, new SseEmitter(EMITTER_TIMEOUT_MILLIS));
+    }
+
+    SseEmitter subscribe(long userId, SseEmitter emitter) {
+        if (userId < 1) {
+            throw new PointException(ERROR_INVALID_USER_ID);
+        }
+        Subscriber subscriber = new Subscriber(userId, emitter);
+
+        subscribers.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        return emitter;
+    }
+
+    /**
+     * 저장이 끝난 포인트와 내역을 구독자 버퍼에 넣고 전송을 예약 (블로킹 없음)
+     * @param userPoint 변경된 사용자 포인트 정보
+     * @param pointHistory 추가된 포인트 내역
+     */
+    public void publish(UserPoint userPoint, PointHistory pointHistory) {
+        Set<Subscriber> targets = subscribers.get(userPoint.id());
+        if (targets == null) {
+            return;
+        }
+        for (Subscriber subscriber : targets) {
+            subscriber.offer(userPoint, pointHistory);
+        }
+    }
+
+    /**
+     * 전송 제한 시간을 넘긴 구독자의 구독을 끊고, 전송 스레드가 부족해 예약되지 못한 전송을 다시 예약
+     * emitter 의 메서드는 멈춘 전송과 같은 monitor 를 사용하므로 여기서는 호출하지 않음
+     */
+    @Scheduled(fixedDelay = 1_000L)
+    public void checkSubscribers() {
+        long now = System.currentTimeMillis();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> {
+            if (!subscriber.evictIfStalled(now)) {
+                subscriber.rescheduleIfPending();
+            }
+        }));
+    }
+
+    int subscriberCount(long userId) {
+        Set<Subscriber> targets = subscribers.get(userId);
+        return targets == null ? 0 : targets.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdownNow();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (k, targets) -> {
+            targets.remove(subscriber);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    /**
+     * publish 는 사용자 lock 안에서 실행되므로 전송 예약에서 스레드 생성이나 예외 생성이 일어나지 않도록 함
+     * - 전송 스레드는 기동 시 모두 만들어 두고 줄이지 않음
+     * - 쉬는 스레드가 없으면 예약 표시만 지우고 버림 (checkSubscribers 에서 다시 예약)
+     */
+    private static ExecutorService senderExecutor() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("point-sse-");
+        threadFactory.setDaemon(true);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                SENDER_THREADS, SENDER_THREADS,
+                0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(),
+                threadFactory,
+                (task, rejectedBy) -> {
+                    if (task instanceof Subscriber subscriber) {
+                        subscriber.scheduled.set(false);
+                    }
+                }
+        );
+        executor.prestartAllCoreThreads();
+        return executor;
+    }
+
+    private class Subscriber implements Runnable {
+        private final long userId;
+        private final SseEmitter emitter;
+        private final AtomicReference<UserPoint> latestPoint = new AtomicReference<>();
+        private final BlockingQueue<PointHistory> histories = new ArrayBlockingQueue<>(HISTORY_BUFFER_SIZE);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        // 전송 중인 스레드와 시작 시각 (전송 중이 아니면 null, 0), this 로 보호
+        private Thread sendingThread;
+        private long sendStartedMillis;
+        private volatile boolean evicted;
+
+        private Subscriber(long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * 한 사용자에 대한 publish 는 사용자 lock 으로 직렬화되므로 생산자는 항상 하나
+         */
+        private void offer(UserPoint userPoint, PointHistory pointHistory) {
+            if (pointHistory != null && !histories.offer(pointHistory)) {
+                histories.poll();
+                histories.offer(pointHistory);
+            }
+            latestPoint.set(userPoint);
+            schedule();
+        }
+
+        private void schedule() {
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this);
+            } catch (RejectedExecutionException e) {
+                // 거절 시 예외를 던지는 executor 를 주입한 경우 (기본 executor 는 예외 없이 거절)
+                scheduled.set(false);
+            }
+        }
+
+        @Override
+        public void run() {
+            drain();
+        }
+
+        private void rescheduleIfPending() {
+            if (!histories.isEmpty() || latestPoint.get() != null) {
+                schedule();
+            }
+        }
+
+        private synchronized boolean evictIfStalled(long now) {
+            if (sendingThread == null || now - sendStartedMillis <= sendTimeoutMillis) {
+                return false;
+            }
+            log.debug("SSE 전송 제한 시간 초과로 구독을 종료합니다. userId={}", userId);
+            evicted = true;
+            unsubscribe(this);
+            sendingThread.interrupt();
+            return true;
+        }
+
+        private void drain() {
+            try {
+                PointHistory pointHistory;
+                while ((pointHistory = histories.poll()) != null) {
+                    send(SseEmitter.event()
+                            .name("history")
+                            .id(String.valueOf(pointHistory.id()))
+                            .data(pointHistory, MediaType.APPLICATION_JSON));
+                }
+                UserPoint userPoint = latestPoint.getAndSet(null);
+                if (userPoint != null) {
+                    send(SseEmitter.event()
+                            .name("point")
+                            .data(userPoint, MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 전송 실패로 구독을 종료합니다. userId={}", userId, e);
+                unsubscribe(this);
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            // drain 도중 들어온 변경이 있으면 다시 예약
+            rescheduleIfPending();
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            synchronized (this) {
+                sendingThread = Thread.currentThread();
+                sendStartedMillis = System.currentTimeMillis();
+            }
+            try {
+                emitter.send(event);
+            } finally {
+                synchronized (this) {
+                    sendingThread = null;
+                    sendStartedMillis = 0;
+                    // 전송이 끝난 뒤 도착한 interrupt 가 다른 구독자의 전송에 영향을 주지 않도록 지움
+                    Thread.interrupted();
+                }
+            }
+            // 제한 시간을 넘긴 뒤 전송이 끝난 경우에도 구독 종료 처리
+            if (evicted) {
+                throw new IOException("SSE send timed out");
+            }
+        }
+    }
+}
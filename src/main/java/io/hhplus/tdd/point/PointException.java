@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 도메인 규칙 위반 예외 (잘못된 요청으로 응답)
+ * 악의적인 반복 요청에도 비용이 적도록 stack trace 를 만들지 않음
+ */
+public class PointException extends IllegalArgumentException {
+
+    public PointException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
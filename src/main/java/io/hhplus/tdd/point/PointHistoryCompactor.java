@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보존 기간이 지난 포인트 내역을 주기적으로 일자/종류별 합계 내역으로 압축
+ * 내역 조회 응답 크기를 줄이기 위한 것으로, PointHistoryTable 의 내역은 그대로 남아 메모리는 줄지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class PointHistoryCompactor {
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryCompactor.class);
+
+    private final PointService pointService;
+    private final PointHistoryProperties pointHistoryProperties;
+
+    @Scheduled(fixedDelayString = "${point.history.compaction-interval:PT1H}")
+    public void compact() {
+        int compactedUsers = pointService.compactHistory(pointHistoryProperties.cutoffMillis());
+        if (compactedUsers > 0) {
+            log.info("포인트 내역 압축 완료. users={}", compactedUsers);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 포인트 내역 보관 설정 (압축 실행 간격은 point.history.compaction-interval)
+ * 압축은 조회 응답 크기만 줄이며, PointHistoryTable 이 모든 내역을 보관하므로 메모리 사용량은 줄지 않음
+ * @param retentionDays 개별 내역을 그대로 보관하는 기간 (일), 이전 내역은 일자별 합계로 압축
+ */
+@ConfigurationProperties("point.history")
+public record PointHistoryProperties(
+        @DefaultValue("90") int retentionDays
+) {
+    /**
+     * 개별 내역으로 남기는 기준 시각 (보존 기간 이전 일자의 시작 시각, 이전 내역이 압축 대상)
+     * 일자 단위로 끊어야 같은 날의 내역이 여러 번에 나뉘어 압축되지 않음
+     */
+    public long cutoffMillis() {
+        ZoneId zone = ZoneId.systemDefault();
+        return LocalDate.now(zone)
+                .minusDays(retentionDays)
+                .atStartOfDay(zone)
+                .toInstant()
+                .toEpochMilli();
+    }
+}
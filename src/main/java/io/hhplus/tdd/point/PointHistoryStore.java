@@ -0,0 +1,160 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * PointHistoryTable 앞단에서 사용자별 포인트 내역을 관리하는 클래스
+ * - 저장은 항상 PointHistoryTable 에 먼저 기록 (Table 클래스는 변경하지 않고 공개 API 만 사용)
+ * - 사용자별 내역은 처음 조회할 때 Table 에서 한 번 불러오고, 이후 추가분만 이어 붙임
+ * - 보존 기간이 지난 내역은 일자/종류별 합계 내역(DAILY_CHARGE, DAILY_USE)으로 압축하여 조회 응답 크기를 제한
+ * 압축의 목적은 조회 응답 크기 제한이며, 메모리 사용량은 제한하지 않음
+ * PointHistoryTable 이 모든 내역을 계속 보관하고(삭제 API 없음), 사용자별 내역은 조회용 사본으로 그 위에 추가로 힙을 사용함
+ */
+@Component
+@RequiredArgsConstructor
+public class PointHistoryStore {
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final long LAST_AGGREGATE_DAY = LocalDate.of(9999, 12, 31).toEpochDay();
+
+    private final PointHistoryTable pointHistoryTable;
+    private final PointHistoryProperties pointHistoryProperties;
+
+    // 사용자별 내역 (Table 에서 불러오기 전까지는 비어 있음)
+    private final ConcurrentHashMap<Long, UserHistory> userHistories = new ConcurrentHashMap<>();
+
+    /**
+     * 내역 저장 후 사용자별 내역에 추가
+     * 사용자별 내역 객체를 Table 저장 전에 먼저 확보하므로, 동시에 진행 중인 불러오기와 겹쳐도
+     * 불러오기 결과에 포함되거나 append 로 추가되거나 둘 중 하나는 반드시 일어남
+     */
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        UserHistory userHistory = userHistory(userId);
+        PointHistory pointHistory = pointHistoryTable.insert(userId, amount, type, updateMillis);
+        userHistory.append(pointHistory);
+        return pointHistory;
+    }
+
+    /**
+     * 특정 사용자의 최근 내역과 압축된 합계 내역 조회 (정렬되지 않음)
+     * 합계 내역의 id 는 일자/종류로 정한 음수이므로 실제 내역 id 와 겹치지 않고, id 내림차순 정렬 시 최근 내역 뒤에 최근 일자 순으로 위치
+     * @param userId 조회할 사용자 ID
+     * @return 최근 내역 + 합계 내역
+     */
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return userHistory(userId).snapshot(() -> pointHistoryTable.selectAllByUserId(userId), pointHistoryProperties::cutoffMillis);
+    }
+
+    /**
+     * 기준 시각 이전의 내역을 일자/종류별 합계 내역으로 압축
+     * 충전/사용과 겹치지 않도록 사용자 lock 안에서 호출
+     * @param userId 압축할 사용자 ID
+     * @param cutoffMillis 기준 시각 (일자 시작 시각)
+     * @return 압축된 내역이 있으면 true
+     */
+    public boolean compact(long userId, long cutoffMillis) {
+        UserHistory userHistory = userHistories.get(userId);
+        return userHistory != null && userHistory.compact(cutoffMillis);
+    }
+
+    /**
+     * 내역을 보관 중인 사용자 ID 목록
+     */
+    public Set<Long> userIds() {
+        return userHistories.keySet();
+    }
+
+    private UserHistory userHistory(long userId) {
+        return userHistories.computeIfAbsent(userId, k -> new UserHistory());
+    }
+
+    private record DailyKey(LocalDate day, TransactionType type) {
+    }
+
+    private static class UserHistory {
+        private final List<PointHistory> recent = new ArrayList<>();
+        private final Map<DailyKey, PointHistory> aggregates = new HashMap<>();
+        private boolean loaded;
+        private long lastId;
+
+        /**
+         * 아직 Table 에서 불러오기 전이면 무시 (이후 불러오기에서 Table 에 저장된 내역으로 포함됨)
+         * 불러오기 이후에는 이미 포함된 내역일 수 있으므로 id 로 중복을 거름
+         * (사용자별 저장은 lock 으로 직렬화되어 id 가 증가하는 순서로 들어옴)
+         */
+        private synchronized void append(PointHistory pointHistory) {
+            if (!loaded || pointHistory.id() <= lastId) {
+                return;
+            }
+            recent.add(pointHistory);
+            lastId = pointHistory.id();
+        }
+
+        /**
+         * 처음 조회할 때 Table 에서 불러오고, 보존 기간이 지난 내역은 바로 압축
+         * (주기적 압축을 기다리지 않고 첫 조회부터 압축된 응답을 반환)
+         * append 와 같은 monitor 에서 실행되므로 불러오는 동안 들어온 내역은 불러오기가 끝난 뒤 append 됨
+         */
+        private synchronized List<PointHistory> snapshot(Supplier<List<PointHistory>> loader, LongSupplier cutoff) {
+            if (!loaded) {
+                recent.addAll(loader.get());
+                recent.sort(Comparator.comparingLong(PointHistory::id));
+                lastId = recent.isEmpty() ? 0 : recent.get(recent.size() - 1).id();
+                loaded = true;
+                compact(cutoff.getAsLong());
+            }
+            List<PointHistory> result = new ArrayList<>(recent.size() + aggregates.size());
+            result.addAll(recent);
+            result.addAll(aggregates.values());
+            return result;
+        }
+
+        private synchronized boolean compact(long cutoffMillis) {
+            int expired = 0;
+            while (expired < recent.size() && recent.get(expired).updateMillis() < cutoffMillis) {
+                expired++;
+            }
+            if (expired == 0) {
+                return false;
+            }
+            List<PointHistory> expiredHistories = recent.subList(0, expired);
+            for (PointHistory pointHistory : expiredHistories) {
+                LocalDate day = Instant.ofEpochMilli(pointHistory.updateMillis()).atZone(ZONE).toLocalDate();
+                TransactionType dailyType = dailyTypeOf(pointHistory.type());
+                aggregates.merge(new DailyKey(day, dailyType), aggregateOf(pointHistory, day, dailyType), PointHistoryStore::merge);
+            }
+            expiredHistories.clear();
+            return true;
+        }
+
+        private static PointHistory aggregateOf(PointHistory pointHistory, LocalDate day, TransactionType dailyType) {
+            long dayMillis = day.atStartOfDay(ZONE).toInstant().toEpochMilli();
+            return new PointHistory(aggregateId(day, dailyType), pointHistory.userId(), pointHistory.amount(), dailyType, dayMillis);
+        }
+    }
+
+    /**
+     * 합계 내역 id : 최근 일자일수록 0 에 가까운 음수 (같은 일자에서는 충전 합계가 사용 합계보다 큼)
+     */
+    private static long aggregateId(LocalDate day, TransactionType dailyType) {
+        long daysBeforeLast = LAST_AGGREGATE_DAY - day.toEpochDay();
+        return -(daysBeforeLast * 2 + (dailyType == TransactionType.DAILY_CHARGE ? 1 : 2));
+    }
+
+    private static TransactionType dailyTypeOf(TransactionType type) {
+        return type == TransactionType.CHARGE ? TransactionType.DAILY_CHARGE : TransactionType.DAILY_USE;
+    }
+
+    private static PointHistory merge(PointHistory a, PointHistory b) {
+        return new PointHistory(a.id(), a.userId(), a.amount() + b.amount(), a.type(), a.updateMillis());
+    }
+}
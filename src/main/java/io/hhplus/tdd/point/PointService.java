@@ -1,13 +1,13 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
-import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * 포인트 비즈니스 로직을 처리하는 서비스 클래스
@@ -17,9 +17,19 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public class PointService {
     private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    private final PointHistoryStore pointHistoryStore;
+    private final PointEventBroadcaster pointEventBroadcaster;
 
     private static final long MAXIMUM_POINT = 1_000_000L;
+    private static final int MAXIMUM_BULK_SIZE = 500;
+    // 최대 일괄 조회 건수만큼 스레드를 두어 한 요청의 조회가 한 번에 진행되도록 함 (유휴 스레드는 종료)
+    private static final int BULK_LOOKUP_THREADS = MAXIMUM_BULK_SIZE;
+    // 스레드가 모두 사용 중일 때 대기할 수 있는 조회 건수, 넘으면 거절
+    private static final int BULK_LOOKUP_QUEUE_SIZE = MAXIMUM_BULK_SIZE;
+    // 테이블 조회 1회(최대 200ms)에 대기 여유를 더한 일괄 조회 제한 시간
+    private static final long BULK_LOOKUP_TIMEOUT_MILLIS = 1_000L;
+    // 사전 검사에 사용할 수 있는 캐시 포인트의 최대 경과 시간 (이후에는 lock 안에서 다시 조회하여 갱신)
+    private static final long CACHED_POINT_TTL_MILLIS = 500L;
 
     // 예외 메시지
     private static final String ERROR_INVALID_USER_ID = "잘못된 사용자 ID입니다.";
@@ -28,36 +38,152 @@ public class PointService {
     private static final String ERROR_INSUFFICIENT_POINT = "포인트 잔액이 부족합니다.";
     private static final String ERROR_INVALID_USE_AMOUNT = "사용 포인트는 최소 100포인트 이상이어야 합니다.";
     private static final String ERROR_MINIMUM_POINT_UNIT = "사용 포인트는 최소 사용 단위인 100의 배수여야 합니다.";
+    private static final String ERROR_EXCEED_BULK_SIZE = "한 번에 조회 가능한 사용자는 최대 500명입니다.";
+    private static final String ERROR_BULK_LOOKUP_UNAVAILABLE = "조회 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.";
 
     // 사용자별로 동기화 객체 생성
     private final ConcurrentHashMap<Long, Object> userLocks = new ConcurrentHashMap<>();
 
+    // 여러 사용자 포인트 동시 조회용 스레드 풀
+    private final ThreadPoolExecutor bulkLookupExecutor = bulkLookupExecutor();
+
+    // 사용자별 변경 버전 (충전/사용이 반영될 때마다 증가)
+    private final ConcurrentHashMap<Long, Long> userVersions = new ConcurrentHashMap<>();
+
+    // 사용자별로 lock 안에서 마지막으로 확인한 포인트 (lock 진입 전 사전 검사용)
+    // 테이블이 PointService 밖에서 변경될 수 있으므로 변경 버전과 확인 시각을 함께 기록하고, 오래된 값은 사용하지 않음
+    private final ConcurrentHashMap<Long, CachedPoint> cachedPoints = new ConcurrentHashMap<>();
+
+    private record CachedPoint(long point, long version, long cachedAtMillis) {
+    }
+
     private Object getLock(long userId) {
         return userLocks.computeIfAbsent(userId, k -> new Object());
     }
 
+    /**
+     * 사용자의 포인트/내역 변경 버전 조회
+     * 테이블을 조회하지 않는 메모리 연산으로, 조건부 조회(ETag) 판단에 사용
+     * 데이터 조회 전에 버전을 먼저 읽어야 변경된 데이터에 이전 버전이 붙는 경우를 피할 수 있음
+     * 조건부 조회에서도 잘못된 사용자 ID 는 304 가 아닌 예외로 응답하도록 ID 를 먼저 검증
+     * @param userId 조회할 사용자 ID (1 이상)
+     * @return 변경 버전 (변경 이력이 없으면 0)
+     */
+    public long getVersion(long userId) {
+        validateUserId(userId);
+        return userVersions.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * 포인트/내역 저장이 끝난 뒤 사용자 lock 안에서 호출
+     */
+    private void increaseVersion(long userId) {
+        userVersions.merge(userId, 1L, Long::sum);
+    }
+
+    /**
+     * lock 안에서 확인한 포인트를 현재 변경 버전, 시각과 함께 기록
+     */
+    private void cachePoint(long userId, long point) {
+        cachedPoints.put(userId, new CachedPoint(point, getVersion(userId), System.currentTimeMillis()));
+    }
+
+    /**
+     * 사전 검사에 사용할 수 있는 캐시 포인트 조회
+     * 이후 변경이 반영되었거나(버전 불일치) 기록한 지 오래된 경우 null 을 반환하여 lock 안에서 다시 조회하도록 함
+     */
+    private Long freshCachedPoint(long userId) {
+        CachedPoint cachedPoint = cachedPoints.get(userId);
+        if (cachedPoint == null
+                || cachedPoint.version() != getVersion(userId)
+                || System.currentTimeMillis() - cachedPoint.cachedAtMillis() > CACHED_POINT_TTL_MILLIS) {
+            return null;
+        }
+        return cachedPoint.point();
+    }
+
     /**
      * 사용자 ID를 통해 포인트 정보 조회
      * @param userId 조회할 사용자 ID (1 이상)
      * @return 사용자 포인트 정보
      */
     public UserPoint getPoint(long userId) {
+        validateUserId(userId);
+        return userPointTable.selectById(userId);
+    }
+
+    private void validateUserId(long userId) {
         if (userId < 1) {
-            throw new IllegalArgumentException(ERROR_INVALID_USER_ID);
+            throw new PointException(ERROR_INVALID_USER_ID);
         }
-        return userPointTable.selectById(userId);
+    }
+
+    /**
+     * 여러 사용자의 포인트 정보를 한 번에 조회
+     * 중복 ID를 제거한 뒤 사용자별 조회를 스레드 풀에서 동시에 수행하여, 응답 시간이 조회 건수에 비례하지 않도록 함
+     * 스레드 풀 대기열이 가득 차거나 제한 시간 안에 끝나지 않으면 남은 조회를 취소하고 PointUnavailableException 발생
+     * @param userIds 조회할 사용자 ID 목록 (각 1 이상, 최대 500개)
+     * @return 사용자 ID 별 포인트 정보 (요청 순서 유지)
+     */
+    public Map<Long, UserPoint> getPoints(List<Long> userIds) {
+        Set<Long> distinctUserIds = new LinkedHashSet<>(userIds);
+        if (distinctUserIds.size() > MAXIMUM_BULK_SIZE) {
+            throw new PointException(ERROR_EXCEED_BULK_SIZE);
+        }
+        for (Long userId : distinctUserIds) {
+            if (userId == null || userId < 1) {
+                throw new PointException(ERROR_INVALID_USER_ID);
+            }
+        }
+
+        List<CompletableFuture<UserPoint>> lookups = new ArrayList<>(distinctUserIds.size());
+        try {
+            for (Long userId : distinctUserIds) {
+                lookups.add(CompletableFuture.supplyAsync(() -> userPointTable.selectById(userId), bulkLookupExecutor));
+            }
+            CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new))
+                    .get(BULK_LOOKUP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException | TimeoutException e) {
+            // 대기 중인 조회는 취소되면 실행되지 않음
+            lookups.forEach(lookup -> lookup.cancel(false));
+            throw new PointUnavailableException(ERROR_BULK_LOOKUP_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lookups.forEach(lookup -> lookup.cancel(false));
+            throw new PointUnavailableException(ERROR_BULK_LOOKUP_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+
+        Map<Long, UserPoint> userPoints = new LinkedHashMap<>();
+        for (CompletableFuture<UserPoint> lookup : lookups) {
+            UserPoint userPoint = lookup.join();
+            userPoints.put(userPoint.id(), userPoint);
+        }
+        return userPoints;
     }
 
     /**
      * 특정 사용자에게 포인트를 충전
-     * 동기화를 위해 사용자별 lock 사용
+     * 동기화를 위해 사용자별 lock 사용, 반영된 결과는 구독자에게 발행
+     * 최근에 확인한 포인트 기준으로 최대 보유 포인트를 넘는 요청은 lock 대기 없이 거절
      * @param userId 포인트를 충전할 사용자 ID
      * @param amount 충전할 포인트 (1 이상)
      * @return 충전 후 업데이트된 사용자 포인트 정보
      */
     public UserPoint charge(long userId, long amount) {
         if (amount < 1) {
-            throw new IllegalArgumentException(ERROR_INVALID_CHARGE_AMOUNT);
+            throw new PointException(ERROR_INVALID_CHARGE_AMOUNT);
+        }
+        validateUserId(userId);
+
+        // lock 대기 전에 마지막으로 확인한 포인트로 명백히 실패할 요청을 거름 (최종 검사는 lock 안에서 수행)
+        Long cachedPoint = freshCachedPoint(userId);
+        if (cachedPoint != null && cachedPoint + amount > MAXIMUM_POINT) {
+            throw new PointException(ERROR_EXCEED_MAXIMUM_POINT);
         }
 
         Object lock = getLock(userId);
@@ -66,28 +192,40 @@ public class PointService {
             long newAmount = storedUserPoint.point() + amount;
 
             if (newAmount > MAXIMUM_POINT) {
-                throw new IllegalArgumentException(ERROR_EXCEED_MAXIMUM_POINT);
+                cachePoint(userId, storedUserPoint.point());
+                throw new PointException(ERROR_EXCEED_MAXIMUM_POINT);
             }
 
             UserPoint updatedUserPoint = userPointTable.insertOrUpdate(userId, newAmount);
-            pointHistoryTable.insert(userId, amount, TransactionType.CHARGE, System.currentTimeMillis());
+            PointHistory pointHistory = pointHistoryStore.insert(userId, amount, TransactionType.CHARGE, System.currentTimeMillis());
+            increaseVersion(userId);
+            cachePoint(userId, newAmount);
+            pointEventBroadcaster.publish(updatedUserPoint, pointHistory);
             return updatedUserPoint;
         }
     }
 
     /**
      * 특정 사용자의 포인트를 사용
-     * 동기화를 위해 사용자별 lock 사용
+     * 동기화를 위해 사용자별 lock 사용, 반영된 결과는 구독자에게 발행
+     * 최근에 확인한 포인트 기준으로 잔액이 부족한 요청은 lock 대기 없이 거절
      * @param userId 포인트를 사용할 사용자 ID
      * @param amount 사용한 포인트 (100 단위)
      * @return 사용 후 업데이트된 사용자 포인트 정보
      */
     public UserPoint use(long userId, long amount) {
         if (amount < 100) {
-            throw new IllegalArgumentException(ERROR_INVALID_USE_AMOUNT);
+            throw new PointException(ERROR_INVALID_USE_AMOUNT);
         }
         if (amount % 100 != 0) {
-            throw new IllegalArgumentException(ERROR_MINIMUM_POINT_UNIT);
+            throw new PointException(ERROR_MINIMUM_POINT_UNIT);
+        }
+        validateUserId(userId);
+
+        // lock 대기 전에 마지막으로 확인한 포인트로 명백히 실패할 요청을 거름 (최종 검사는 lock 안에서 수행)
+        Long cachedPoint = freshCachedPoint(userId);
+        if (cachedPoint != null && cachedPoint < amount) {
+            throw new PointException(ERROR_INSUFFICIENT_POINT);
         }
 
         Object lock = getLock(userId);
@@ -96,25 +234,70 @@ public class PointService {
             long newAmount = storedUserPoint.point() - amount;
 
             if (newAmount < 0) {
-                throw new IllegalArgumentException(ERROR_INSUFFICIENT_POINT);
+                cachePoint(userId, storedUserPoint.point());
+                throw new PointException(ERROR_INSUFFICIENT_POINT);
             }
 
             UserPoint updatedUserPoint = userPointTable.insertOrUpdate(userId, newAmount);
-            pointHistoryTable.insert(userId, amount, TransactionType.USE, System.currentTimeMillis());
+            PointHistory pointHistory = pointHistoryStore.insert(userId, amount, TransactionType.USE, System.currentTimeMillis());
+            increaseVersion(userId);
+            cachePoint(userId, newAmount);
+            pointEventBroadcaster.publish(updatedUserPoint, pointHistory);
             return updatedUserPoint;
         }
     }
 
     /**
      * 특정 사용자의 포인트 충전 및 사용 내역 조회
-     * 포인트 내역은 내림차순으로 정렬
+     * 포인트 내역은 내림차순으로 정렬 (최근 내역 뒤에 보존 기간이 지나 압축된 일자별 합계 내역)
      * @param userId 포인트 내역을 조회할 사용자 ID
      * @return 검색된 포인트 내역 리스트
      */
     public List<PointHistory> getPointHistory(long userId) {
-        return pointHistoryTable.selectAllByUserId(userId)
+        return pointHistoryStore.selectAllByUserId(userId)
                 .stream()
                 .sorted(Comparator.comparing(PointHistory::id).reversed())
                 .toList();
     }
+
+    /**
+     * 보존 기간이 지난 포인트 내역을 일자/종류별 합계 내역으로 압축
+     * 충전/사용과 겹치지 않도록 사용자별 lock 안에서 처리하고, 압축된 사용자는 변경 버전 증가
+     * @param cutoffMillis 기준 시각, 이전 내역이 압축 대상
+     * @return 내역이 압축된 사용자 수
+     */
+    public int compactHistory(long cutoffMillis) {
+        int compactedUsers = 0;
+        for (long userId : pointHistoryStore.userIds()) {
+            synchronized (getLock(userId)) {
+                if (pointHistoryStore.compact(userId, cutoffMillis)) {
+                    increaseVersion(userId);
+                    compactedUsers++;
+                }
+            }
+        }
+        return compactedUsers;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        bulkLookupExecutor.shutdownNow();
+    }
+
+    private static ThreadPoolExecutor bulkLookupExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                BULK_LOOKUP_THREADS, BULK_LOOKUP_THREADS,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(BULK_LOOKUP_QUEUE_SIZE),
+                bulkLookupThreadFactory()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static CustomizableThreadFactory bulkLookupThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("point-lookup-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
 }
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/point")
+@RequiredArgsConstructor
+public class PointStreamController {
+
+    private final PointEventBroadcaster pointEventBroadcaster;
+
+    /**
+     * 특정 유저의 포인트 변경(point)과 새 충전/이용 내역(history)을 SSE 로 구독
+     * 구독 이전의 포인트는 GET /point/{id} 로 조회
+     */
+    @GetMapping(value = "{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @PathVariable long id
+    ) {
+        return pointEventBroadcaster.subscribe(id);
+    }
+}
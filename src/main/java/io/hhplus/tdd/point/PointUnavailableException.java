@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 처리 용량 초과로 요청을 처리하지 못한 예외 (잠시 후 재시도 가능한 응답)
+ * 과부하 상황에서 발생하므로 PointException 과 같이 stack trace 를 만들지 않음
+ */
+public class PointUnavailableException extends RuntimeException {
+
+    public PointUnavailableException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
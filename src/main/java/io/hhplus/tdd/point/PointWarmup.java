@@ -0,0 +1,216 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.*;
+
+/**
+ * 기동 직후 예열(warm-up)
+ * ApplicationRunner 는 내장 Tomcat 이 이미 요청을 받는 상태에서 실행되므로 예열 자체가 트래픽을 막지는 않음
+ * 트래픽은 /actuator/health/readiness 를 기준으로 받아야 하며, 이 값은 예열(ApplicationRunner)이 끝난 뒤에
+ * ACCEPTING_TRAFFIC 으로 바뀜 (readiness 를 확인하지 않고 보낸 요청은 예열 중에도 처리됨)
+ * - 충전/사용/내역 조회 : 지연(throttle) 없는 별도 테이블로 만든 PointService 에서 반복 (실제 데이터는 변경하지 않음)
+ * - JSON/바이너리 직렬화 : 위 결과를 버리는 스트림에 기록
+ * - 컨트롤러 : 실제 테이블을 사용하지 않는 요청(304, 400, 빈 목록)만 자기 자신에게 HTTP 요청
+ *   실제 테이블은 지연(throttle)이 있고 데이터와 구독자에게 영향을 주므로 예열에 사용하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class PointWarmup implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(PointWarmup.class);
+
+    private static final int USERS_PER_ROUND = 10;
+    // 컨트롤러 예열에서 조건부 조회(304)에만 사용하는 사용자 ID (충전/사용은 항상 실패하므로 변경되지 않음)
+    private static final long WARMUP_USER_ID = Long.MAX_VALUE;
+
+    // 직렬화 결과를 버리는 스트림 (ObjectMapper 가 닫아도 계속 사용할 수 있도록 close 는 무시)
+    private static final OutputStream DISCARD = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    private final PointWarmupProperties pointWarmupProperties;
+    private final PointHistoryProperties pointHistoryProperties;
+    private final PointService pointService;
+    private final ObjectMapper objectMapper;
+    private final Environment environment;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!pointWarmupProperties.enabled()) {
+            return;
+        }
+        long startMillis = System.currentTimeMillis();
+        warmUpService();
+        warmUpController();
+        log.info("예열 완료. rounds={}, httpRequests={}, elapsed={}ms",
+                pointWarmupProperties.rounds(), pointWarmupProperties.httpRequests(), System.currentTimeMillis() - startMillis);
+    }
+
+    /**
+     * 기동 전후 비교를 위해 JVM 시작부터 준비 완료까지 걸린 시간 기록
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void logTimeToReady() {
+        log.info("준비 완료. timeToReady={}ms", ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    private void warmUpService() throws IOException {
+        DataOutputStream binaryOut = new DataOutputStream(DISCARD);
+        PointEventBroadcaster broadcaster = new PointEventBroadcaster();
+        try {
+            for (int round = 0; round < pointWarmupProperties.rounds(); round++) {
+                PointService sandbox = new PointService(
+                        new WarmupUserPointTable(),
+                        new PointHistoryStore(new WarmupPointHistoryTable(), pointHistoryProperties),
+                        broadcaster
+                );
+                for (long userId = 1; userId <= USERS_PER_ROUND; userId++) {
+                    sandbox.charge(userId, 10_000L);
+                    sandbox.use(userId, 1_000L);
+                    UserPoint userPoint = sandbox.getPoint(userId);
+                    List<PointHistory> histories = sandbox.getPointHistory(userId);
+
+                    objectMapper.writeValue(DISCARD, userPoint);
+                    objectMapper.writeValue(DISCARD, histories);
+                    PointBinaryCodec.writeUserPoint(userPoint, binaryOut);
+                    PointBinaryCodec.writeHistories(histories, binaryOut);
+                }
+                try {
+                    sandbox.use(1L, 1_000_000L);
+                } catch (PointException ignored) {
+
+                }
+                sandbox.shutdown();
+            }
+        } finally {
+            broadcaster.shutdown();
+        }
+    }
+
+    /**
+     * 실제 테이블을 사용하지 않는 요청만으로 컨트롤러 경로(MVC, Jackson, 메시지 컨버터, 예외 처리)를 호출
+     * - 조회 : 현재 ETag 로 조건부 조회하여 304 응답 (테이블 조회 전에 응답)
+     * - 충전/사용 : 잘못된 금액으로 요청하여 400 응답 (테이블 조회 전에 검사)
+     * - 잘못된 사용자 ID : JSON, 바이너리 Accept 로 요청하여 400 응답
+     * - 여러 사용자 조회 : 빈 목록으로 요청
+     */
+    private void warmUpController() {
+        String port = environment.getProperty("local.server.port");
+        if (port == null) {
+            return;
+        }
+        String baseUrl = "http://localhost:" + port + "/point/";
+        String userUrl = baseUrl + WARMUP_USER_ID;
+        HttpClient client = HttpClient.newHttpClient();
+
+        for (int i = 0; i < pointWarmupProperties.httpRequests(); i++) {
+            List<HttpRequest> requests = List.of(
+                    conditionalGet(userUrl, PointController.etag("point", WARMUP_USER_ID, pointService.getVersion(WARMUP_USER_ID))),
+                    conditionalGet(userUrl + "/histories", PointController.etag("histories", WARMUP_USER_ID, pointService.getVersion(WARMUP_USER_ID))),
+                    patch(userUrl + "/charge", "0"),
+                    patch(userUrl + "/use", "150"),
+                    get(baseUrl + "0", MediaType.APPLICATION_JSON_VALUE),
+                    get(baseUrl + "0", PointBinaryMessageConverter.MEDIA_TYPE_VALUE),
+                    HttpRequest.newBuilder(URI.create(baseUrl + "bulk"))
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .POST(HttpRequest.BodyPublishers.ofString("[]"))
+                            .build()
+            );
+            for (HttpRequest request : requests) {
+                try {
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                } catch (IOException e) {
+                    log.warn("예열 요청 실패로 컨트롤러 예열을 중단합니다.", e);
+                    return;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static HttpRequest get(String url, String accept) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header(HttpHeaders.ACCEPT, accept)
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest conditionalGet(String url, String etag) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest patch(String url, String amount) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(amount))
+                .build();
+    }
+
+    /**
+     * 예열용 테이블 (지연 없음, 실제 테이블과 분리)
+     */
+    private static class WarmupUserPointTable extends UserPointTable {
+        private final Map<Long, UserPoint> table = new HashMap<>();
+
+        @Override
+        public UserPoint selectById(Long id) {
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+    }
+
+    private static class WarmupPointHistoryTable extends PointHistoryTable {
+        private final List<PointHistory> table = new ArrayList<>();
+        private long cursor = 1;
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+    }
+}
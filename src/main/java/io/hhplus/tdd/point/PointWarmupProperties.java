@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 기동 직후 예열(warm-up) 설정
+ * @param enabled 예열 실행 여부
+ * @param rounds 포인트 충전/사용/내역 조회 경로를 반복할 횟수
+ * @param httpRequests 자기 자신에게 컨트롤러 예열 요청 묶음을 보낼 횟수 (실제 테이블은 사용하지 않음)
+ */
+@ConfigurationProperties("point.warmup")
+public record PointWarmupProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("500") int rounds,
+        @DefaultValue("200") int httpRequests
+) {
+}
@@ -5,7 +5,9 @@ package io.hhplus.tdd.point;
  * 포인트 트랜잭션 종류
  * - CHARGE : 충전
  * - USE : 사용
+ * - DAILY_CHARGE : 보존 기간이 지난 하루치 충전 합계 (내역 조회 응답에만 등장, 음수 id, 실제 충전 내역이 아님)
+ * - DAILY_USE : 보존 기간이 지난 하루치 사용 합계 (내역 조회 응답에만 등장, 음수 id, 실제 사용 내역이 아님)
  */
 public enum TransactionType {
-    CHARGE, USE
+    CHARGE, USE, DAILY_CHARGE, DAILY_USE
 }
\ No newline at end of file
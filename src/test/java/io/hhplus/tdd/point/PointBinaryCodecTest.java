@@ -0,0 +1,52 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class PointBinaryCodecTest {
+    /**
+     * [작성이유]
+     * UserPoint를 바이너리로 인코딩했을 때 고정 길이(24 바이트)로 기록되고, 그대로 복원되는지 확인하기 위해 작성함
+     */
+    @Test
+    void 사용자_포인트를_인코딩하면_고정_길이로_기록되고_그대로_복원된다() throws IOException {
+        // given
+        UserPoint userPoint = new UserPoint(1L, 100_000L, System.currentTimeMillis());
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        // when
+        PointBinaryCodec.writeUserPoint(userPoint, new DataOutputStream(buffer));
+        UserPoint result = PointBinaryCodec.readUserPoint(new DataInputStream(new ByteArrayInputStream(buffer.toByteArray())));
+
+        // then
+        assertThat(buffer.size()).isEqualTo(PointBinaryCodec.USER_POINT_BYTES);
+        assertThat(result).isEqualTo(userPoint);
+    }
+
+    /**
+     * [작성이유]
+     * 포인트 내역 리스트를 인코딩했을 때 건수 + 건당 33 바이트로 기록되고, 순서와 값이 그대로 복원되는지 확인하기 위해 작성함
+     */
+    @Test
+    void 포인트_내역을_인코딩하면_건당_고정_길이로_기록되고_순서대로_복원된다() throws IOException {
+        // given
+        long userId = 1L;
+        List<PointHistory> histories = List.of(
+                new PointHistory(2L, userId, 10_000L, TransactionType.USE, System.currentTimeMillis()),
+                new PointHistory(1L, userId, 100_000L, TransactionType.CHARGE, System.currentTimeMillis())
+        );
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        // when
+        PointBinaryCodec.writeHistories(histories, new DataOutputStream(buffer));
+        List<PointHistory> result = PointBinaryCodec.readHistories(new DataInputStream(new ByteArrayInputStream(buffer.toByteArray())));
+
+        // then
+        assertThat(buffer.size()).isEqualTo(PointBinaryCodec.historiesLength(2));
+        assertThat(result).containsExactlyElementsOf(histories);
+    }
+}
@@ -0,0 +1,183 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class PointControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private PointService pointService;
+    @SpyBean
+    private UserPointTable userPointTable;
+    @SpyBean
+    private PointHistoryTable pointHistoryTable;
+
+    @Nested
+    @DisplayName("응답 형식 선택 테스트")
+    public class ContentNegotiationTest {
+        /**
+         * [작성이유]
+         * 모든 형식을 허용하는 요청은 바이너리 컨버터가 추가된 뒤에도 기본 형식인 JSON 으로 응답하는지 확인하기 위해 작성함
+         */
+        @Test
+        void 모든_형식을_허용하면_JSON_으로_응답한다() throws Exception {
+            mockMvc.perform(get("/point/{id}", 101L).accept(MediaType.ALL))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.id").value(101L));
+        }
+        /**
+         * [작성이유]
+         * 바이너리 형식을 요청한 경우, 고정 길이(24 바이트) 바이너리와 그 길이의 Content-Length 로 응답하는지 확인하기 위해 작성함
+         */
+        @Test
+        void 바이너리_형식을_요청하면_포인트가_고정_길이_바이너리로_응답된다() throws Exception {
+            byte[] body = mockMvc.perform(get("/point/{id}", 102L).accept(PointBinaryMessageConverter.MEDIA_TYPE))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(PointBinaryMessageConverter.MEDIA_TYPE))
+                    .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, PointBinaryCodec.USER_POINT_BYTES))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            assertThat(body).hasSize(PointBinaryCodec.USER_POINT_BYTES);
+        }
+        /**
+         * [작성이유]
+         * 바이너리 형식으로 내역을 요청한 경우, 건수(4 바이트) + 건당 33 바이트의 Content-Length 로 응답하는지 확인하기 위해 작성함
+         */
+        @Test
+        void 바이너리_형식을_요청하면_내역이_건수에_맞는_길이로_응답된다() throws Exception {
+            long userId = 103L;
+            pointService.charge(userId, 1_000L);
+            pointService.charge(userId, 2_000L);
+
+            mockMvc.perform(get("/point/{id}/histories", userId).accept(PointBinaryMessageConverter.MEDIA_TYPE))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(PointBinaryMessageConverter.MEDIA_TYPE))
+                    .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, PointBinaryCodec.historiesLength(2)));
+        }
+        /**
+         * [작성이유]
+         * 바이너리 형식을 지원하지 않는 일괄 조회(Map 응답)에 바이너리 형식을 요청한 경우, 406 으로 응답하는지 확인하기 위해 작성함
+         */
+        @Test
+        void 일괄_조회에_바이너리_형식을_요청하면_406_으로_응답한다() throws Exception {
+            mockMvc.perform(post("/point/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[104]")
+                            .accept(PointBinaryMessageConverter.MEDIA_TYPE))
+                    .andExpect(status().isNotAcceptable());
+        }
+        /**
+         * [작성이유]
+         * 바이너리 형식을 요청한 클라이언트가 잘못된 사용자 ID 로 조회할 경우, 500 이 아닌 JSON 에러 응답(400)을 받는지 확인하기 위해 작성함
+         */
+        @Test
+        void 바이너리_형식을_요청해도_잘못된_사용자_ID_면_JSON_400_으로_응답한다() throws Exception {
+            mockMvc.perform(get("/point/{id}", 0L).accept(PointBinaryMessageConverter.MEDIA_TYPE))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.code").value("400"))
+                    .andExpect(jsonPath("$.message").value("잘못된 사용자 ID입니다."));
+        }
+        /**
+         * [작성이유]
+         * 요소 타입 정보 없이 클래스만으로 판단하는 경우, PointHistory 가 아닌 리스트를 쓸 수 있다고 판단하지 않는지 확인하기 위해 작성함
+         */
+        @Test
+        void 요소_타입을_알_수_없는_리스트는_바이너리로_쓰지_않는다() {
+            PointBinaryMessageConverter converter = new PointBinaryMessageConverter();
+
+            assertThat(converter.canWrite(List.class, PointBinaryMessageConverter.MEDIA_TYPE)).isFalse();
+            assertThat(converter.canWrite(UserPoint.class, PointBinaryMessageConverter.MEDIA_TYPE)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("조건부 조회 테스트")
+    public class ConditionalRequestTest {
+        /**
+         * [작성이유]
+         * 현재 버전의 ETag 로 포인트를 조건부 조회할 경우, 테이블을 조회하지 않고 304 로 응답하는지 확인하기 위해 작성함
+         */
+        @Test
+        void 변경이_없으면_포인트_테이블_조회_없이_304_로_응답한다() throws Exception {
+            long userId = 201L;
+            String etag = PointController.etag("point", userId, pointService.getVersion(userId));
+
+            mockMvc.perform(get("/point/{id}", userId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag))
+                    .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+            verify(userPointTable, never()).selectById(anyLong());
+        }
+        /**
+         * [작성이유]
+         * 현재 버전의 ETag 로 내역을 조건부 조회할 경우, 테이블을 조회하지 않고 304 로 응답하는지 확인하기 위해 작성함
+         */
+        @Test
+        void 변경이_없으면_내역_테이블_조회_없이_304_로_응답한다() throws Exception {
+            long userId = 202L;
+            String etag = PointController.etag("histories", userId, pointService.getVersion(userId));
+
+            mockMvc.perform(get("/point/{id}/histories", userId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+            verify(pointHistoryTable, never()).selectAllByUserId(anyLong());
+        }
+        /**
+         * [작성이유]
+         * 이전 프로세스(또는 다른 인스턴스)에서 받은 ETag 는 버전 숫자가 같아도 일치하지 않아, 304 가 아닌 최신 값으로 응답하는지 확인하기 위해 작성함
+         */
+        @Test
+        void 이전_프로세스의_ETag_로_조회하면_버전이_같아도_200_으로_응답한다() throws Exception {
+            long userId = 204L;
+            String previousProcessEtag = "W/\"point-" + userId + "-" + pointService.getVersion(userId) + "\"";
+
+            mockMvc.perform(get("/point/{id}", userId).header(HttpHeaders.IF_NONE_MATCH, previousProcessEtag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(userId));
+        }
+        /**
+         * [작성이유]
+         * 잘못된 사용자 ID 로 조건부 조회할 경우, ETag 가 일치해도 304 가 아닌 400 으로 응답하는지 확인하기 위해 작성함
+         */
+        @Test
+        void 잘못된_사용자_ID_면_ETag_가_일치해도_400_으로_응답한다() throws Exception {
+            mockMvc.perform(get("/point/{id}", 0L).header(HttpHeaders.IF_NONE_MATCH, "W/\"point-0-0\""))
+                    .andExpect(status().isBadRequest());
+        }
+        /**
+         * [작성이유]
+         * JSON/바이너리 응답이 같은 ETag 를 공유하므로, 캐시가 형식별로 구분하도록 Vary: Accept 를 응답하는지 확인하기 위해 작성함
+         */
+        @Test
+        void 포인트를_조회하면_ETag_와_Vary_Accept_를_응답한다() throws Exception {
+            long userId = 203L;
+
+            mockMvc.perform(get("/point/{id}", userId).accept(PointBinaryMessageConverter.MEDIA_TYPE))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, PointController.etag("point", userId, pointService.getVersion(userId))))
+                    .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class PointEventBroadcasterTest {
+    private final ManualExecutorService sender = new ManualExecutorService();
+    private final PointEventBroadcaster pointEventBroadcaster = new PointEventBroadcaster(sender, 1_000L);
+
+    @AfterEach
+    void tearDown() {
+        pointEventBroadcaster.shutdown();
+    }
+
+    /**
+     * [작성이유]
+     * 전송되지 못한 내역이 버퍼 크기(64건)를 넘을 경우, 가장 오래된 내역부터 버려지고 최근 64건만 전송되는지 확인하기 위해 작성함
+     */
+    @Test
+    void 내역_버퍼가_가득_차면_가장_오래된_내역부터_버려진다() {
+        // given
+        long userId = 1L;
+        RecordingEmitter emitter = new RecordingEmitter();
+        pointEventBroadcaster.subscribe(userId, emitter);
+
+        // when
+        for (long id = 1; id <= 100; id++) {
+            pointEventBroadcaster.publish(new UserPoint(userId, id, 0L), new PointHistory(id, userId, id, TransactionType.CHARGE, 0L));
+        }
+        sender.runAll();
+
+        // then
+        assertThat(emitter.sent(PointHistory.class))
+                .extracting(PointHistory::id)
+                .containsExactlyElementsOf(LongStream.rangeClosed(37, 100).boxed().toList());
+    }
+
+    /**
+     * [작성이유]
+     * 전송 전에 포인트가 여러 번 바뀐 경우, 중간 값은 건너뛰고 마지막 포인트만 한 번 전송되는지 확인하기 위해 작성함
+     */
+    @Test
+    void 전송_전에_포인트가_여러_번_바뀌면_마지막_포인트만_전송된다() {
+        // given
+        long userId = 1L;
+        RecordingEmitter emitter = new RecordingEmitter();
+        pointEventBroadcaster.subscribe(userId, emitter);
+        UserPoint lastUserPoint = new UserPoint(userId, 3_000L, 0L);
+
+        // when
+        pointEventBroadcaster.publish(new UserPoint(userId, 1_000L, 0L), null);
+        pointEventBroadcaster.publish(new UserPoint(userId, 2_000L, 0L), null);
+        pointEventBroadcaster.publish(lastUserPoint, null);
+        sender.runAll();
+
+        // then
+        assertThat(emitter.sent(UserPoint.class)).containsExactly(lastUserPoint);
+    }
+
+    /**
+     * [작성이유]
+     * 전송 스레드가 부족해 전송 예약이 거절된 경우, 주기적 점검에서 다시 예약되어 전송되는지 확인하기 위해 작성함
+     */
+    @Test
+    void 전송_예약이_거절되면_주기적_점검에서_다시_예약된다() {
+        // given
+        long userId = 1L;
+        RecordingEmitter emitter = new RecordingEmitter();
+        pointEventBroadcaster.subscribe(userId, emitter);
+        UserPoint userPoint = new UserPoint(userId, 1_000L, 0L);
+        sender.rejectNext = true;
+        pointEventBroadcaster.publish(userPoint, null);
+        sender.runAll();
+        assertThat(emitter.sent(UserPoint.class)).isEmpty();
+
+        // when
+        pointEventBroadcaster.checkSubscribers();
+        sender.runAll();
+
+        // then
+        assertThat(emitter.sent(UserPoint.class)).containsExactly(userPoint);
+    }
+
+    /**
+     * [작성이유]
+     * 구독자에게 전송하다 실패한 경우(연결 끊김 등), 구독이 종료되어 이후 발행 대상에서 빠지는지 확인하기 위해 작성함
+     */
+    @Test
+    void 전송에_실패하면_구독이_종료된다() {
+        // given
+        long userId = 1L;
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.failOnSend = true;
+        pointEventBroadcaster.subscribe(userId, emitter);
+
+        // when
+        pointEventBroadcaster.publish(new UserPoint(userId, 1_000L, 0L), null);
+        sender.runAll();
+
+        // then
+        assertThat(pointEventBroadcaster.subscriberCount(userId)).isZero();
+    }
+
+    /**
+     * [작성이유]
+     * 구독 연결이 정상 종료된 경우, 구독 목록에서 제거되는지 확인하기 위해 작성함
+     */
+    @Test
+    void 연결이_종료되면_구독이_종료된다() {
+        // given
+        long userId = 1L;
+        RecordingEmitter emitter = new RecordingEmitter();
+        pointEventBroadcaster.subscribe(userId, emitter);
+        assertThat(pointEventBroadcaster.subscriberCount(userId)).isEqualTo(1);
+
+        // when
+        emitter.completionCallback.run();
+
+        // then
+        assertThat(pointEventBroadcaster.subscriberCount(userId)).isZero();
+    }
+
+    /**
+     * [작성이유]
+     * 느린 구독자의 전송이 제한 시간을 넘긴 경우, 구독이 종료되고 붙잡힌 전송 스레드가 풀려나는지 확인하기 위해 작성함
+     */
+    @Test
+    void 전송이_제한_시간을_넘기면_구독이_종료되고_전송_스레드가_풀려난다() throws Exception {
+        // given
+        long userId = 1L;
+        ExecutorService blockingSender = Executors.newSingleThreadExecutor();
+        PointEventBroadcaster broadcaster = new PointEventBroadcaster(blockingSender, 50L);
+        BlockingEmitter emitter = new BlockingEmitter();
+        broadcaster.subscribe(userId, emitter);
+        try {
+            broadcaster.publish(new UserPoint(userId, 1_000L, 0L), null);
+            assertThat(emitter.sending.await(1, TimeUnit.SECONDS)).isTrue();
+            TimeUnit.MILLISECONDS.sleep(100L);
+
+            // when
+            broadcaster.checkSubscribers();
+
+            // then
+            assertThat(broadcaster.subscriberCount(userId)).isZero();
+            assertThat(emitter.interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            broadcaster.shutdown();
+        }
+    }
+
+    /**
+     * 전송된 이벤트의 데이터를 기록하는 SseEmitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<Object> sent = new CopyOnWriteArrayList<>();
+        private boolean failOnSend;
+        private Runnable completionCallback;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failOnSend) {
+                throw new IOException("broken pipe");
+            }
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                if (!(data.getData() instanceof String)) {
+                    sent.add(data.getData());
+                }
+            }
+        }
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            completionCallback = callback;
+        }
+
+        private <T> List<T> sent(Class<T> type) {
+            return sent.stream().filter(type::isInstance).map(type::cast).toList();
+        }
+    }
+
+    /**
+     * 응답을 읽지 않는 클라이언트처럼 전송이 멈추는 SseEmitter (interrupt 되면 IOException)
+     */
+    private static class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IOException("write interrupted", e);
+            }
+        }
+    }
+
+    /**
+     * 제출된 작업을 테스트 스레드에서 실행하는 ExecutorService
+     */
+    private static class ManualExecutorService extends AbstractExecutorService {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean shutdown;
+        private boolean rejectNext;
+
+        private void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (shutdown || rejectNext) {
+                rejectNext = false;
+                throw new RejectedExecutionException();
+            }
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            List<Runnable> pending = List.copyOf(tasks);
+            tasks.clear();
+            return pending;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown && tasks.isEmpty();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return isTerminated();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class PointHistoryStoreTest {
+
+    /**
+     * [작성이유]
+     * 주기적 압축이 실행되기 전에 처음 조회할 경우에도, 보존 기간이 지난 내역은 합계 내역으로 압축되어 조회되는지 확인하기 위해 작성함
+     */
+    @Test
+    void 처음_조회할_때_보존_기간이_지난_내역은_합계_내역으로_조회된다() {
+        // given
+        long userId = 1L;
+        long now = System.currentTimeMillis();
+        long oldMillis = LocalDate.now().minusDays(100).atTime(12, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        PointHistoryTable pointHistoryTable = mock(PointHistoryTable.class);
+        when(pointHistoryTable.selectAllByUserId(userId)).thenReturn(List.of(
+                new PointHistory(1L, userId, 100_000L, TransactionType.CHARGE, oldMillis),
+                new PointHistory(2L, userId, 50_000L, TransactionType.CHARGE, oldMillis + 1),
+                new PointHistory(3L, userId, 1_000L, TransactionType.USE, now)
+        ));
+        PointHistoryStore pointHistoryStore = new PointHistoryStore(pointHistoryTable, new PointHistoryProperties(90));
+
+        // when
+        List<PointHistory> result = pointHistoryStore.selectAllByUserId(userId);
+
+        // then
+        assertThat(result).extracting(PointHistory::type).containsExactlyInAnyOrder(TransactionType.USE, TransactionType.DAILY_CHARGE);
+        assertThat(result).filteredOn(history -> history.type() == TransactionType.DAILY_CHARGE)
+                .singleElement()
+                .extracting(PointHistory::amount)
+                .isEqualTo(150_000L);
+    }
+
+    /**
+     * [작성이유]
+     * 처음 조회(Table 불러오기)와 내역 저장이 동시에 진행되어, 불러오기가 새 내역을 놓친 경우에도
+     * 이후 조회에서 해당 내역이 빠지지 않는지 확인하기 위해 작성함
+     */
+    @Test
+    void 처음_조회와_내역_저장이_겹쳐도_저장된_내역이_누락되지_않는다() throws Exception {
+        // given
+        long userId = 1L;
+        long now = System.currentTimeMillis();
+        CountDownLatch scanned = new CountDownLatch(1);
+        CountDownLatch inserted = new CountDownLatch(1);
+        PointHistoryTable pointHistoryTable = new PointHistoryTable() {
+            private final List<PointHistory> table = new CopyOnWriteArrayList<>();
+            private long cursor = 1;
+
+            @Override
+            public synchronized PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+                table.add(pointHistory);
+                inserted.countDown();
+                return pointHistory;
+            }
+
+            @Override
+            public List<PointHistory> selectAllByUserId(long userId) {
+                // 새 내역이 저장되기 전의 결과를 만든 뒤, 저장이 끝날 때까지 반환을 늦춤
+                List<PointHistory> result = new ArrayList<>(table);
+                scanned.countDown();
+                try {
+                    inserted.await(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return result;
+            }
+        };
+        PointHistoryStore pointHistoryStore = new PointHistoryStore(pointHistoryTable, new PointHistoryProperties(90));
+        pointHistoryStore.insert(userId, 100_000L, TransactionType.CHARGE, now);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<List<PointHistory>> firstRead;
+        try {
+            firstRead = executor.submit(() -> pointHistoryStore.selectAllByUserId(userId));
+            assertThat(scanned.await(1, TimeUnit.SECONDS)).isTrue();
+            pointHistoryStore.insert(userId, 10_000L, TransactionType.USE, now);
+            firstRead.get(1, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        List<PointHistory> result = pointHistoryStore.selectAllByUserId(userId);
+
+        // then
+        assertThat(result).extracting(PointHistory::id).containsExactly(1L, 2L);
+    }
+}
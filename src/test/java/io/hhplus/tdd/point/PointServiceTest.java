@@ -2,18 +2,25 @@ package io.hhplus.tdd.point;
 
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,9 +31,22 @@ public class PointServiceTest {
     private PointHistoryTable pointHistoryTable;
     @Mock
     private UserPointTable userPointTable;
-    @InjectMocks
+    @Mock
+    private PointEventBroadcaster pointEventBroadcaster;
     private PointService pointService;
 
+    @BeforeEach
+    void setup() {
+        // 내역 저장소는 실제 객체를 사용하고, 그 아래의 PointHistoryTable 만 mock 으로 대체
+        pointService = new PointService(userPointTable, new PointHistoryStore(pointHistoryTable, new PointHistoryProperties(90)), pointEventBroadcaster);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 테스트마다 만든 일괄 조회 스레드를 정리
+        pointService.shutdown();
+    }
+
     /**
      * Nested 구조를 통해서 각 테스트 코드가 어디에 속하는지 명확하게 확인할 수 있도록 함
      */
@@ -85,6 +105,86 @@ public class PointServiceTest {
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessage("잘못된 사용자 ID입니다.");
         }
+        /**
+         * [작성이유]
+         * 여러 사용자의 포인트를 한 번에 조회할 경우, 중복 ID는 한 번만 조회되고 사용자별 포인트가 반환되는지 확인하기 위해 작성함
+         */
+        @Test
+        void 여러_사용자의_포인트를_조회하면_중복을_제외한_사용자별_포인트가_반환된다() {
+            // given
+            UserPoint userPoint1 = new UserPoint(1L, 1_000L, System.currentTimeMillis());
+            UserPoint userPoint2 = new UserPoint(2L, 2_000L, System.currentTimeMillis());
+            when(userPointTable.selectById(1L)).thenReturn(userPoint1);
+            when(userPointTable.selectById(2L)).thenReturn(userPoint2);
+
+            // when
+            Map<Long, UserPoint> result = pointService.getPoints(List.of(1L, 2L, 1L));
+
+            // then
+            assertThat(result).containsExactly(entry(1L, userPoint1), entry(2L, userPoint2));
+            verify(userPointTable, times(1)).selectById(1L);
+        }
+        /**
+         * [작성이유]
+         * 최대 건수(500명)를 한 번에 조회할 경우, 테이블 조회가 100건 단위로 나뉘지 않고 동시에 진행되는지 확인하기 위해 작성함
+         * (응답 시간은 실행 환경에 따라 달라지므로 동시에 진행 중인 테이블 조회 수로 확인)
+         */
+        @Test
+        void 최대_건수의_사용자를_조회하면_테이블_조회가_동시에_진행된다() {
+            // given
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger peakInFlight = new AtomicInteger();
+            when(userPointTable.selectById(anyLong())).thenAnswer(invocation -> {
+                peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(300L);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+                return UserPoint.empty(invocation.getArgument(0));
+            });
+            List<Long> userIds = LongStream.rangeClosed(1, 500).boxed().toList();
+
+            // when
+            Map<Long, UserPoint> result = pointService.getPoints(userIds);
+
+            // then
+            assertThat(result).hasSize(500);
+            // 순차 조회는 1건, 100개씩 나누어 조회하면 최대 100건이 동시에 진행되는 조건
+            assertThat(peakInFlight.get()).isGreaterThan(100);
+        }
+        /**
+         * [작성이유]
+         * 일괄 조회가 제한 시간 안에 끝나지 않을 경우, 무기한 대기하지 않고 재시도 가능한 예외가 발생하는지 확인하기 위해 작성함
+         */
+        @Test
+        void 여러_사용자의_포인트_조회가_제한_시간을_넘으면_예외가_발생한다() {
+            // given
+            when(userPointTable.selectById(1L)).thenAnswer(invocation -> {
+                TimeUnit.MILLISECONDS.sleep(1_500L);
+                return UserPoint.empty(1L);
+            });
+
+            // when & then
+            assertThatThrownBy(() -> pointService.getPoints(List.of(1L)))
+                    .isInstanceOf(PointUnavailableException.class)
+                    .hasMessage("조회 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        /**
+         * [작성이유]
+         * 여러 사용자의 포인트를 조회할 때 잘못된 사용자 ID가 포함된 경우, 조회 없이 예외가 발생하는지 확인하기 위해 작성함
+         */
+        @Test
+        void 여러_사용자의_포인트를_조회할_때_잘못된_사용자_ID가_있으면_예외가_발생한다() {
+            // given
+            List<Long> userIds = List.of(1L, 0L);
+
+            // when & then
+            assertThatThrownBy(() -> pointService.getPoints(userIds))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("잘못된 사용자 ID입니다.");
+            verify(userPointTable, never()).selectById(anyLong());
+        }
     }
 
     @Nested
@@ -167,6 +267,29 @@ public class PointServiceTest {
                     anyLong()
             );
         }
+        /**
+         * [작성이유]
+         * 포인트 충전이 반영되면 충전 결과와 내역이 구독자에게 발행되는지 확인하기 위해 작성함
+         */
+        @Test
+        void 포인트를_충전하면_충전_결과와_내역이_구독자에게_발행된다() {
+            // given
+            long userId = 1L;
+            long chargeAmount = 5000L;
+
+            UserPoint updatedUserPoint = new UserPoint(userId, chargeAmount, System.currentTimeMillis());
+            PointHistory pointHistory = new PointHistory(1L, userId, chargeAmount, TransactionType.CHARGE, System.currentTimeMillis());
+
+            when(userPointTable.selectById(userId)).thenReturn(UserPoint.empty(userId));
+            when(userPointTable.insertOrUpdate(userId, chargeAmount)).thenReturn(updatedUserPoint);
+            when(pointHistoryTable.insert(eq(userId), eq(chargeAmount), eq(TransactionType.CHARGE), anyLong())).thenReturn(pointHistory);
+
+            // when
+            pointService.charge(userId, chargeAmount);
+
+            // then
+            verify(pointEventBroadcaster, times(1)).publish(updatedUserPoint, pointHistory);
+        }
         /**
          * [작성이유]
          * 사용자 정보가 잘못되었을 경우 (0 이하의 ID), 예외가 발생하는지 확인하기 위해 작성함
@@ -218,6 +341,23 @@ public class PointServiceTest {
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessage("최대 보유 가능한 포인트는 100만 포인트입니다.");
         }
+        /**
+         * [작성이유]
+         * 충전 결과가 최대 보유 포인트에 가까운 사용자가 한도를 넘는 충전을 요청할 경우, 포인트 조회(lock 진입) 없이 거절되는지 확인하기 위해 작성함
+         */
+        @Test
+        void 충전_후_최대_포인트를_넘을_것이_명백하면_포인트_조회_없이_거절된다() {
+            // given
+            long userId = 1L;
+            when(userPointTable.selectById(userId)).thenReturn(UserPoint.empty(userId));
+            pointService.charge(userId, 999_000L);
+
+            // when & then
+            assertThatThrownBy(() -> pointService.charge(userId, 1_001L))
+                    .isInstanceOf(PointException.class)
+                    .hasMessage("최대 보유 가능한 포인트는 100만 포인트입니다.");
+            verify(userPointTable, times(1)).selectById(userId);
+        }
     }
 
     @Nested
@@ -291,6 +431,56 @@ public class PointServiceTest {
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessage("포인트 잔액이 부족합니다.");
         }
+        /**
+         * [작성이유]
+         * 잔액 부족으로 실패한 사용자가 다시 같은 요청을 할 경우, 포인트 조회(lock 진입) 없이 거절되는지 확인하기 위해 작성함
+         * 반복 요청의 비용을 줄이기 위해 stack trace 가 없는 예외인지도 확인함
+         */
+        @Test
+        void 잔액_부족으로_실패한_뒤_다시_사용을_시도하면_포인트_조회_없이_거절된다() {
+            // given
+            long userId = 1L;
+            long usePoint = 100_100L;
+            UserPoint userPoint = new UserPoint(userId, 100_000L, System.currentTimeMillis());
+            when(userPointTable.selectById(userId)).thenReturn(userPoint);
+            assertThatThrownBy(() -> pointService.use(userId, usePoint))
+                    .isInstanceOf(PointException.class);
+
+            // when
+            Throwable thrown = catchThrowable(() -> pointService.use(userId, usePoint));
+
+            // then
+            assertThat(thrown)
+                    .isInstanceOf(PointException.class)
+                    .hasMessage("포인트 잔액이 부족합니다.");
+            assertThat(thrown.getStackTrace()).isEmpty();
+            verify(userPointTable, times(1)).selectById(userId);
+        }
+        /**
+         * [작성이유]
+         * 잔액 부족으로 기록된 포인트가 오래되면 사전 거절에 쓰이지 않고, lock 안에서 다시 조회하여
+         * 그 사이 외부에서 바뀐 포인트로 사용이 처리되는지 확인하기 위해 작성함
+         */
+        @Test
+        void 잔액_부족으로_기록된_포인트가_오래되면_다시_조회하여_사용이_처리된다() throws InterruptedException {
+            // given
+            long userId = 1L;
+            long usePoint = 1_000L;
+            when(userPointTable.selectById(userId))
+                    .thenReturn(UserPoint.empty(userId))
+                    .thenReturn(new UserPoint(userId, 10_000L, System.currentTimeMillis()));
+            when(userPointTable.insertOrUpdate(userId, 9_000L)).thenReturn(new UserPoint(userId, 9_000L, System.currentTimeMillis()));
+            assertThatThrownBy(() -> pointService.use(userId, usePoint))
+                    .isInstanceOf(PointException.class);
+            TimeUnit.MILLISECONDS.sleep(600L);
+
+            // when
+            UserPoint result = pointService.use(userId, usePoint);
+
+            // then
+            assertThat(result.point()).isEqualTo(9_000L);
+            verify(userPointTable, times(2)).selectById(userId);
+        }
         /**
          * [작성이유]
          * 초기 0 포인트가 주어지는 신규 사용자가 포인트 사용을 시도하는 경우, 예외가 발생하는지 확인하기 위해 작성함
@@ -402,5 +592,82 @@ public class PointServiceTest {
             // then
             assertThat(result).isEmpty();
         }
+        /**
+         * [작성이유]
+         * 보존 기간이 지난 내역을 압축하면, 최근 내역 뒤에 실제 내역과 구분되는 일자/종류별 합계 내역이 조회되는지 확인하기 위해 작성함
+         */
+        @Test
+        void 보존_기간이_지난_내역을_압축하면_최근_내역_뒤에_일자별_합계_내역이_조회된다() {
+            // given
+            long userId = 1L;
+            long now = System.currentTimeMillis();
+            // 처음 조회 시에는 보존 기간(90일) 안이라 압축되지 않고, 같은 날짜로 묶이도록 어제 정오를 기준으로 함
+            long oldMillis = LocalDate.now().minusDays(1).atTime(12, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            long cutoffMillis = LocalDate.now().atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            List<PointHistory> storedHistory = Arrays.asList(
+                    new PointHistory(1L, userId, 100_000L, TransactionType.CHARGE, oldMillis),
+                    new PointHistory(2L, userId, 50_000L, TransactionType.CHARGE, oldMillis + 1),
+                    new PointHistory(3L, userId, 10_000L, TransactionType.USE, oldMillis + 2),
+                    new PointHistory(4L, userId, 1_000L, TransactionType.USE, now)
+            );
+            when(pointHistoryTable.selectAllByUserId(userId)).thenReturn(storedHistory);
+            pointService.getPointHistory(userId);
+            long before = pointService.getVersion(userId);
+
+            // when
+            int compactedUsers = pointService.compactHistory(cutoffMillis);
+            List<PointHistory> result = pointService.getPointHistory(userId);
+
+            // then
+            assertThat(compactedUsers).isEqualTo(1);
+            assertThat(pointService.getVersion(userId)).isEqualTo(before + 1);
+            assertThat(result).extracting("amount").containsExactly(1_000L, 150_000L, 10_000L);
+            assertThat(result).extracting("type").containsExactly(TransactionType.USE, TransactionType.DAILY_CHARGE, TransactionType.DAILY_USE);
+            // 합계 내역은 실제 내역 id 와 겹치지 않는 음수 id 를 사용
+            assertThat(result.get(0).id()).isEqualTo(4L);
+            assertThat(result.subList(1, 3)).allSatisfy(history -> assertThat(history.id()).isNegative());
+        }
+    }
+
+    @Nested
+    @DisplayName("변경 버전 테스트")
+    public class VersionTest {
+        /**
+         * [작성이유]
+         * 포인트 충전/사용이 반영되면 조건부 조회(ETag)에 쓰이는 변경 버전이 증가하는지 확인하기 위해 작성함
+         */
+        @Test
+        void 포인트를_충전하거나_사용하면_변경_버전이_증가한다() {
+            // given
+            long userId = 1L;
+            UserPoint userPoint = new UserPoint(userId, 100_000L, System.currentTimeMillis());
+            when(userPointTable.selectById(userId)).thenReturn(userPoint);
+            long before = pointService.getVersion(userId);
+
+            // when
+            pointService.charge(userId, 1_000L);
+            pointService.use(userId, 1_000L);
+
+            // then
+            assertThat(pointService.getVersion(userId)).isEqualTo(before + 2);
+        }
+        /**
+         * [작성이유]
+         * 잔액 부족 등으로 포인트 사용이 실패하면 변경 버전이 유지되는지 확인하기 위해 작성함
+         */
+        @Test
+        void 포인트_사용이_실패하면_변경_버전이_유지된다() {
+            // given
+            long userId = 1L;
+            when(userPointTable.selectById(userId)).thenReturn(UserPoint.empty(userId));
+            long before = pointService.getVersion(userId);
+
+            // when
+            assertThatThrownBy(() -> pointService.use(userId, 100L))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            // then
+            assertThat(pointService.getVersion(userId)).isEqualTo(before);
+        }
     }
 }